@@ -23,10 +23,13 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.jdbc)
+    runtimeOnly(libs.h2)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.hdr.histogram)
 }
 
 // about source and compilation
@@ -48,5 +51,34 @@ tasks.getByName("jar") {
 // test tasks
 tasks.test {
     ignoreFailures = true
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark", "load")
+    }
+}
+tasks.register<Test>("benchmark") {
+    description = "Runs serialization/performance benchmarks."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+}
+tasks.register<Test>("loadTest") {
+    description = "Boots TddApplication and runs the REST load test. Options: -Pload.<name>=<value>"
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("load")
+    }
+    systemProperties(project.properties.filterKeys { it.startsWith("load.") || it.startsWith("point.") || it == "spring.profiles.active" })
+    systemProperty("load.reportDir", layout.buildDirectory.dir("reports/load-test").get().asFile.path)
+    outputs.upToDateWhen { false }
+    testLogging {
+        showStandardStreams = true
+    }
 }
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PointHistoryTable 을 그대로 사용하는 기본 저장소
+ * PointHistoryTable 의 조회는 다른 유저의 쓰기와 동시에 실행되면 안전하지 않으므로,
+ * 기록한 내역을 유저별 불변 리스트로도 보관하고 조회는 이 리스트에서 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.storage", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryTable pointHistoryTable;
+
+    private final Map<Long, List<PointHistory>> histories = new ConcurrentHashMap<>();
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory pointHistory = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        // 추가할 때마다 새 리스트로 교체 (copy-on-write)
+        histories.compute(userId, (id, list) -> {
+            List<PointHistory> appended = list == null ? new ArrayList<>(1) : new ArrayList<>(list);
+            appended.add(pointHistory);
+            return Collections.unmodifiableList(appended);
+        });
+        return pointHistory;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return histories.getOrDefault(userId, List.of());
+    }
+}
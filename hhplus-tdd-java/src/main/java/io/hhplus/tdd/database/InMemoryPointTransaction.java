@@ -0,0 +1,43 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Table 클래스는 트랜잭션을 지원하지 않으므로 그대로 실행
+ * afterCommit 으로 등록된 작업은 action 이 예외 없이 끝난 경우에만 실행
+ */
+@Component
+@ConditionalOnProperty(name = "point.storage", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPointTransaction implements PointTransaction {
+
+    private final ThreadLocal<List<Runnable>> afterCommitActions = new ThreadLocal<>();
+
+    @Override
+    public <T> T execute(Supplier<T> action) {
+        List<Runnable> actions = new ArrayList<>();
+        afterCommitActions.set(actions);
+        T result;
+        try {
+            result = action.get();
+        } finally {
+            afterCommitActions.remove();
+        }
+        actions.forEach(Runnable::run);
+        return result;
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        List<Runnable> actions = afterCommitActions.get();
+        if (actions == null) {
+            action.run();
+            return;
+        }
+        actions.add(action);
+    }
+}
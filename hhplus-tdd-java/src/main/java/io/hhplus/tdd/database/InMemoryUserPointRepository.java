@@ -0,0 +1,27 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * UserPointTable 을 그대로 사용하는 기본 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.storage", havingValue = "memory", matchIfMissing = true)
+public class InMemoryUserPointRepository implements UserPointRepository {
+
+    private final UserPointTable userPointTable;
+
+    @Override
+    public UserPoint selectById(Long id) {
+        return userPointTable.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return userPointTable.insertOrUpdate(id, amount);
+    }
+}
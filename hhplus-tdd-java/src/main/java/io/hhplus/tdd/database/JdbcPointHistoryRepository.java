@@ -0,0 +1,56 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 임베디드 DB(H2)에 포인트 내역을 저장하는 저장소
+ * 유저 포인트 변경과 같은 트랜잭션(JdbcPointTransaction) 안에서 바로 insert 되므로 둘 중 하나만 남는 일이 없다.
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.storage", havingValue = "jdbc")
+public class JdbcPointHistoryRepository implements PointHistoryRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO point_history (user_id, amount, type, update_millis) VALUES (?, ?, ?, ?)",
+                    new String[]{"id"});
+            ps.setLong(1, userId);
+            ps.setLong(2, amount);
+            ps.setString(3, type.name());
+            ps.setLong(4, updateMillis);
+            return ps;
+        }, keyHolder);
+        long id = Objects.requireNonNull(keyHolder.getKey()).longValue();
+        return new PointHistory(id, userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        return jdbcTemplate.query(
+                "SELECT id, user_id, amount, type, update_millis FROM point_history WHERE user_id = ? ORDER BY id",
+                (rs, rowNum) -> new PointHistory(
+                        rs.getLong("id"),
+                        rs.getLong("user_id"),
+                        rs.getLong("amount"),
+                        TransactionType.valueOf(rs.getString("type")),
+                        rs.getLong("update_millis")),
+                userId);
+    }
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 유저 포인트 변경과 내역 기록을 하나의 DB 트랜잭션으로 커밋
+ */
+@Component
+@ConditionalOnProperty(name = "point.storage", havingValue = "jdbc")
+public class JdbcPointTransaction implements PointTransaction {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcPointTransaction(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    @Override
+    public void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
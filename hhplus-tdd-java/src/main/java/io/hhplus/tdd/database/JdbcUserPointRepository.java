@@ -0,0 +1,38 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 임베디드 DB(H2)에 유저 포인트를 저장하는 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "point.storage", havingValue = "jdbc")
+public class JdbcUserPointRepository implements UserPointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public UserPoint selectById(Long id) {
+        List<UserPoint> userPoints = jdbcTemplate.query(
+                "SELECT id, point, update_millis FROM user_point WHERE id = ?",
+                (rs, rowNum) -> new UserPoint(rs.getLong("id"), rs.getLong("point"), rs.getLong("update_millis")),
+                id);
+        // UserPointTable 과 동일하게 없는 유저는 0 포인트로 취급
+        return userPoints.isEmpty() ? UserPoint.empty(id) : userPoints.get(0);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        jdbcTemplate.update("MERGE INTO user_point (id, point, update_millis) KEY (id) VALUES (?, ?, ?)",
+                userPoint.id(), userPoint.point(), userPoint.updateMillis());
+        return userPoint;
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+
+/**
+ * 포인트 충전/이용 내역 저장소
+ * point.storage 설정값(memory, jdbc)에 따라 구현체가 선택됩니다.
+ */
+public interface PointHistoryRepository {
+
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    List<PointHistory> selectAllByUserId(long userId);
+}
@@ -0,0 +1,81 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointLot;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 충전 포인트 묶음(lot)을 충전 순서대로 보관합니다.
+ * 같은 유저에 대한 호출은 PointService 의 유저별 Lock 안에서만 이루어집니다.
+ */
+@Component
+public class PointLotTable {
+
+    private final Map<Long, Deque<PointLot>> table = new ConcurrentHashMap<>();
+
+    public PointLot insert(long userId, long amount, long chargeMillis, long expireMillis) {
+        PointLot pointLot = new PointLot(userId, amount, chargeMillis, expireMillis);
+        table.computeIfAbsent(userId, id -> new ArrayDeque<>()).addLast(pointLot);
+        return pointLot;
+    }
+
+    /**
+     * 가장 오래된 lot 부터 차감
+     * @return lot 에서 차감된 포인트 (lot 이 부족하면 amount 보다 작음)
+     */
+    public long use(long userId, long amount) {
+        Deque<PointLot> lots = table.get(userId);
+        if (lots == null) return 0;
+
+        long remain = amount;
+        while (remain > 0 && !lots.isEmpty()) {
+            PointLot oldest = lots.pollFirst();
+            if (oldest.amount() > remain) {
+                lots.addFirst(oldest.withAmount(oldest.amount() - remain));
+                remain = 0;
+            } else {
+                remain -= oldest.amount();
+            }
+        }
+        return amount - remain;
+    }
+
+    /**
+     * 만료 시각이 지난 lot 의 포인트 합계 (제거하지 않음)
+     */
+    public long expiredAmount(long userId, long nowMillis) {
+        Deque<PointLot> lots = table.get(userId);
+        if (lots == null) return 0;
+
+        long expired = 0;
+        for (PointLot lot : lots) {
+            if (lot.isExpired(nowMillis)) expired += lot.amount();
+        }
+        return expired;
+    }
+
+    /**
+     * 만료 시각이 지난 lot 을 제거
+     * @return 만료된 포인트 합계
+     */
+    public long expire(long userId, long nowMillis) {
+        Deque<PointLot> lots = table.get(userId);
+        if (lots == null) return 0;
+
+        long expired = 0;
+        Iterator<PointLot> iterator = lots.iterator();
+        while (iterator.hasNext()) {
+            PointLot lot = iterator.next();
+            if (lot.isExpired(nowMillis)) {
+                expired += lot.amount();
+                iterator.remove();
+            }
+        }
+        return expired;
+    }
+}
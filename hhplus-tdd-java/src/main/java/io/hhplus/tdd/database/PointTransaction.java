@@ -0,0 +1,19 @@
+package io.hhplus.tdd.database;
+
+import java.util.function.Supplier;
+
+/**
+ * 유저 포인트와 포인트 내역을 하나의 단위로 저장
+ * point.storage 설정값(memory, jdbc)에 따라 구현체가 선택됩니다.
+ */
+public interface PointTransaction {
+
+    <T> T execute(Supplier<T> action);
+
+    /**
+     * execute 안에서 호출하면 작업이 커밋된 뒤에 실행하고, 실패하면 실행하지 않음
+     * 트랜잭션 밖에서 호출하면 바로 실행
+     * @param action 롤백할 수 없는 메모리 상태 변경 (예: 만료 lot, 타이밍 휠)
+     */
+    void afterCommit(Runnable action);
+}
@@ -0,0 +1,14 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 유저 포인트 저장소
+ * point.storage 설정값(memory, jdbc)에 따라 구현체가 선택됩니다.
+ */
+public interface UserPointRepository {
+
+    UserPoint selectById(Long id);
+
+    UserPoint insertOrUpdate(long id, long amount);
+}
@@ -0,0 +1,8 @@
+package io.hhplus.tdd.exception;
+
+public class PointServiceUnavailableException extends RuntimeException {
+    // 서버 종료 중이라 포인트 충전/사용 요청을 받을 수 없을 때
+    public PointServiceUnavailableException() {
+        super("서버가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+}
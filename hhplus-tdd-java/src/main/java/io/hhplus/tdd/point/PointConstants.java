@@ -1,5 +1,10 @@
 package io.hhplus.tdd.point;
 
+import java.util.concurrent.TimeUnit;
+
 public class PointConstants {
     public static final long MAX_POINT = 1_000_000L;
+
+    // 충전 포인트 유효기간 (충전 시점으로부터 1년)
+    public static final long POINT_EXPIRE_MILLIS = TimeUnit.DAYS.toMillis(365);
 }
@@ -3,7 +3,10 @@ package io.hhplus.tdd.point;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -35,6 +38,21 @@ public class PointController {
         return pointService.getUserPointHistory(id);
     }
 
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 바이너리 포맷으로 조회
+     * Accept: application/x-hhplus-point-history 요청에만 매핑되며, 그 외에는 JSON 으로 응답합니다.
+     */
+    @GetMapping(value = "{id}/histories", produces = PointHistoryCodec.MEDIA_TYPE_VALUE)
+    public ResponseEntity<StreamingResponseBody> binaryHistory(
+            @PathVariable long id
+    ) {
+        // 유저 검증 예외는 스트리밍 시작 전에 발생하도록 먼저 조회 (에러 응답은 ApiControllerAdvice 에서 JSON 으로 반환)
+        List<PointHistory> histories = pointService.getUserPointHistory(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.valueOf(PointHistoryCodec.MEDIA_TYPE_VALUE))
+                .body(outputStream -> PointHistoryCodec.encode(histories, outputStream));
+    }
+
     /**
      * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
      */
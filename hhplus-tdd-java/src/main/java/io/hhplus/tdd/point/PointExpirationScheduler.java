@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1초마다 타이밍 휠을 진행시켜 만료된 포인트를 차감
+ * tick 스레드는 만료 대상을 꺼내 유저별 작업으로 넘기기만 하고, 차감은 크기가 정해진 executor 에서 처리한다.
+ * executor 가 가득 차면 기다리지 않고 다음 tick 으로 미룬다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointExpirationScheduler {
+
+    private static final int EXPIRE_THREADS = 4;
+    private static final int EXPIRE_QUEUE_SIZE = 1_000;
+
+    private final PointService pointService;
+    private final PointExpirationWheel pointExpirationWheel;
+
+    private final ThreadPoolExecutor expireExecutor = new ThreadPoolExecutor(EXPIRE_THREADS, EXPIRE_THREADS,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(EXPIRE_QUEUE_SIZE));
+
+    @Scheduled(fixedDelay = 1_000L)
+    public void expirePoints() {
+        long nowMillis = System.currentTimeMillis();
+        Set<Long> userIds = pointExpirationWheel.advanceClock(nowMillis);
+
+        int deferred = 0;
+        for (long userId : userIds) {
+            try {
+                expireExecutor.execute(() -> pointService.expireUserPoint(userId, nowMillis));
+            } catch (RejectedExecutionException e) {
+                pointService.rescheduleExpiration(userId, nowMillis);
+                deferred++;
+            }
+        }
+        if (!userIds.isEmpty()) {
+            log.info("포인트 만료 처리 요청. count={}, deferred={}", userIds.size() - deferred, deferred);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        expireExecutor.shutdown();
+    }
+}
@@ -0,0 +1,162 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 포인트 만료 시각을 관리하는 계층형 타이밍 휠
+ * - 가장 아래 휠은 tick 단위, 상위 휠은 하위 휠 한 바퀴를 tick 으로 사용
+ * - 등록/만료 모두 O(1)로 처리되며, 상위 휠에 있던 항목은 시간이 다가오면 하위 휠로 내려온다.
+ * - 만료 시각은 tick 단위로 올림 처리되므로 실제 만료는 최대 1 tick 늦게 발생할 수 있다.
+ */
+@Component
+public class PointExpirationWheel {
+
+    private static final long TICK_MILLIS = 1_000L;
+    private static final int WHEEL_SIZE = 60;
+
+    private final Level root;
+    private final Set<Long> due = new LinkedHashSet<>();
+    private int size = 0;
+
+    public PointExpirationWheel() {
+        this(TICK_MILLIS, WHEEL_SIZE, System.currentTimeMillis());
+    }
+
+    public PointExpirationWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.root = new Level(tickMillis, wheelSize, startMillis - startMillis % tickMillis);
+    }
+
+    /**
+     * 유저의 포인트 만료 시각을 등록
+     * @param userId 포인트를 충전한 유저의 ID
+     * @param expireMillis 만료 시각
+     */
+    public synchronized void schedule(long userId, long expireMillis) {
+        long deadline = ceilToTick(expireMillis);
+        if (!insert(new Entry(userId, deadline))) {
+            due.add(userId);
+        }
+    }
+
+    /**
+     * 현재 시각까지 휠을 진행시키고 만료 대상 유저를 반환
+     * @param nowMillis 현재 시각
+     * @return 만료 시각이 도래한 lot 을 가진 유저 ID 목록 (중복 제거)
+     */
+    public synchronized Set<Long> advanceClock(long nowMillis) {
+        Set<Long> expired = new LinkedHashSet<>(due);
+        due.clear();
+
+        // 대기 중인 항목이 없으면 tick 단위로 돌 필요 없이 바로 이동
+        if (size == 0) {
+            root.jumpTo(nowMillis);
+            return expired;
+        }
+        while (root.currentTime + root.tickMillis <= nowMillis) {
+            root.tickTo(root.currentTime + root.tickMillis, expired);
+        }
+        return expired;
+    }
+
+    /**
+     * 가장 아래 휠의 tick 단위 (ms)
+     */
+    public long getTickMillis() {
+        return root.tickMillis;
+    }
+
+    /**
+     * 휠에 대기 중인 만료 항목 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private long ceilToTick(long millis) {
+        long remainder = Math.floorMod(millis, root.tickMillis);
+        return remainder == 0 ? millis : millis - remainder + root.tickMillis;
+    }
+
+    private boolean insert(Entry entry) {
+        if (!root.add(entry)) return false;
+        size++;
+        return true;
+    }
+
+    private record Entry(long userId, long deadline) {
+    }
+
+    private class Level {
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final List<List<Entry>> buckets;
+        private long currentTime;
+        private Level overflow;
+
+        private Level(long tickMillis, int wheelSize, long currentTime) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.currentTime = currentTime;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new ArrayList<>());
+            }
+        }
+
+        private boolean add(Entry entry) {
+            // 이미 만료 시각이 지난 경우
+            if (entry.deadline() <= currentTime) return false;
+
+            if (entry.deadline() < currentTime + interval) {
+                buckets.get(slot(entry.deadline())).add(entry);
+                return true;
+            }
+            return overflow().add(entry);
+        }
+
+        /**
+         * time 은 이 휠의 tick 단위로 정렬된 값
+         */
+        private void tickTo(long time, Set<Long> expired) {
+            currentTime = time;
+            if (overflow != null && time % overflow.tickMillis == 0) {
+                overflow.tickTo(time, expired);
+            }
+
+            List<Entry> bucket = buckets.get(slot(time));
+            if (bucket.isEmpty()) return;
+            buckets.set(slot(time), new ArrayList<>());
+            size -= bucket.size();
+
+            // 하위 휠로 재배치하거나, 만료 시각이 도래했으면 만료 처리
+            for (Entry entry : bucket) {
+                if (!insert(entry)) {
+                    expired.add(entry.userId());
+                }
+            }
+        }
+
+        private void jumpTo(long nowMillis) {
+            currentTime = Math.max(currentTime, nowMillis - nowMillis % tickMillis);
+            if (overflow != null) overflow.jumpTo(nowMillis);
+        }
+
+        private Level overflow() {
+            if (overflow == null) {
+                overflow = new Level(interval, wheelSize, currentTime - currentTime % interval);
+            }
+            return overflow;
+        }
+
+        private int slot(long time) {
+            return (int) Math.floorMod(time / tickMillis, (long) wheelSize);
+        }
+    }
+}
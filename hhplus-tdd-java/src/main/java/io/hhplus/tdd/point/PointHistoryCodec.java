@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 내역 바이너리 인코더/디코더
+ * - 포맷 : 버전(1 byte) + varint(건수) + 건별 [id, userId, amount, type, updateMillis]
+ * - type 은 enum 순서가 아닌 고정된 코드(CHARGE=1, USE=2, EXPIRE=3)로 기록
+ * - id, userId, updateMillis 는 직전 내역과의 차이(delta)를, 모든 값은 zigzag varint 로 기록
+ * - 내역을 하나씩 바로 스트림에 쓰므로 전체 응답을 메모리에 만들지 않는다.
+ */
+public final class PointHistoryCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-hhplus-point-history";
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    // 건수는 신뢰할 수 없는 입력이므로 미리 잡아두는 용량에 상한을 둔다.
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private PointHistoryCodec() {
+    }
+
+    public static void encode(List<PointHistory> histories, OutputStream outputStream) throws IOException {
+        OutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, histories.size());
+
+        long prevId = 0, prevUserId = 0, prevUpdateMillis = 0;
+        for (PointHistory history : histories) {
+            writeZigZag(out, history.id() - prevId);
+            writeZigZag(out, history.userId() - prevUserId);
+            writeZigZag(out, history.amount());
+            writeVarLong(out, typeCode(history.type()));
+            writeZigZag(out, history.updateMillis() - prevUpdateMillis);
+
+            prevId = history.id();
+            prevUserId = history.userId();
+            prevUpdateMillis = history.updateMillis();
+        }
+        out.flush();
+    }
+
+    public static List<PointHistory> decode(InputStream inputStream) throws IOException {
+        InputStream in = new BufferedInputStream(inputStream, BUFFER_SIZE);
+        int version = in.read();
+        if (version != FORMAT_VERSION) throw new IOException("지원하지 않는 포맷 버전입니다. version=" + version);
+        long size = readVarLong(in);
+        if (size < 0 || size > Integer.MAX_VALUE) throw new IOException("내역 건수가 너무 큽니다. size=" + size);
+        List<PointHistory> histories = new ArrayList<>((int) Math.min(size, MAX_INITIAL_CAPACITY));
+
+        long id = 0, userId = 0, updateMillis = 0;
+        for (long i = 0; i < size; i++) {
+            id += readZigZag(in);
+            userId += readZigZag(in);
+            long amount = readZigZag(in);
+            TransactionType type = typeOf(readVarLong(in));
+            updateMillis += readZigZag(in);
+            histories.add(new PointHistory(id, userId, amount, type, updateMillis));
+        }
+        return histories;
+    }
+
+    private static int typeCode(TransactionType type) {
+        return switch (type) {
+            case CHARGE -> 1;
+            case USE -> 2;
+            case EXPIRE -> 3;
+        };
+    }
+
+    private static TransactionType typeOf(long code) throws IOException {
+        if (code == 1) return TransactionType.CHARGE;
+        if (code == 2) return TransactionType.USE;
+        if (code == 3) return TransactionType.EXPIRE;
+        throw new IOException("알 수 없는 트랜잭션 코드입니다. code=" + code);
+    }
+
+    private static void writeZigZag(OutputStream out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static void writeVarLong(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readZigZag(InputStream in) throws IOException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("잘못된 varint 형식입니다.");
+    }
+}
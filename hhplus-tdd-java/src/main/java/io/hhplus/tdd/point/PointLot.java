@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 충전 단위로 관리되는 포인트 묶음
+ * @param amount 남아있는 포인트
+ * @param chargeMillis 충전 시각
+ * @param expireMillis 만료 시각
+ */
+public record PointLot(
+        long userId,
+        long amount,
+        long chargeMillis,
+        long expireMillis
+) {
+
+    public PointLot withAmount(long amount) {
+        return new PointLot(userId, amount, chargeMillis, expireMillis);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return expireMillis <= nowMillis;
+    }
+}
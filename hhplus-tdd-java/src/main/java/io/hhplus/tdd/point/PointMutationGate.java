@@ -0,0 +1,137 @@
+package io.hhplus.tdd.point;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포인트 충전/사용/만료 작업의 진입을 관리하고, 서버 종료 시 진행 중인 작업을 정리
+ * - 종료가 시작되면 새 작업은 받지 않고, 이미 들어온 작업(Lock 대기 포함)은 drain-timeout 동안 끝나기를 기다린다.
+ * - drain-timeout 이 지나면 아직 Lock 을 얻지 못한 작업은 아무것도 쓰지 않고 포기하며, 포기한 작업 수를 로그로 남긴다.
+ * - 이미 포인트/내역을 쓰고 있는 작업은 중단하지 않고 abort-timeout 동안 끝나기를 기다린다.
+ * - 웹 서버의 graceful shutdown(새 요청 차단 후 처리 중인 요청 대기)이 끝난 뒤, 웹 서버가 완전히 멈추기 전에 실행된다.
+ *   새 요청은 웹 서버 단계에서 먼저 막히므로 로드밸런서가 트래픽을 옮기는 동안 503 이 쏟아지지 않고,
+ *   이 단계에서는 graceful shutdown 시간 안에 끝나지 않은 작업만 정리한다.
+ */
+@Slf4j
+@Component
+public class PointMutationGate implements SmartLifecycle {
+
+    private final Duration drainTimeout;
+    private final Duration abortTimeout;
+
+    // 유저별 진행 중인 작업 수
+    private final Map<Long, Integer> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger abandoned = new AtomicInteger();
+    private volatile boolean accepting = true;
+    private volatile boolean aborted = false;
+
+    public PointMutationGate(@Value("${point.shutdown.drain-timeout:20s}") Duration drainTimeout,
+                             @Value("${point.shutdown.abort-timeout:5s}") Duration abortTimeout) {
+        this.drainTimeout = drainTimeout;
+        this.abortTimeout = abortTimeout;
+    }
+
+    /**
+     * 작업 시작
+     * @return 종료 중이라 작업을 받을 수 없으면 false
+     */
+    public boolean tryEnter(long userId) {
+        if (!accepting) return false;
+        inFlight.merge(userId, 1, Integer::sum);
+
+        // 카운트를 올리는 사이에 종료가 시작된 경우
+        if (!accepting) {
+            exit(userId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 작업 종료 (tryEnter 가 true 를 반환한 경우에만 호출)
+     */
+    public void exit(long userId) {
+        inFlight.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+        if (inFlight.isEmpty()) {
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Lock 을 얻은 작업이 쓰기 전에 호출
+     * @return drain-timeout 이 지나 작업을 포기해야 하면 true
+     */
+    public boolean shouldAbandon() {
+        if (!aborted) return false;
+        abandoned.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public void start() {
+        aborted = false;
+        accepting = true;
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        log.info("포인트 작업 drain 시작. inFlight={}", inFlightCount());
+
+        if (awaitDrain(drainTimeout)) {
+            log.info("포인트 작업 drain 완료.");
+            return;
+        }
+
+        // 남은 Lock 대기 작업은 쓰지 않고 포기
+        Map<Long, Integer> remaining = Map.copyOf(inFlight);
+        aborted = true;
+        boolean drained = awaitDrain(abortTimeout);
+        log.warn("포인트 작업 drain 시간 초과. abandoned={}, remainingByUser={}, stillRunning={}",
+                abandoned.get(), remaining, drained ? 0 : inFlightCount());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return accepting;
+    }
+
+    @Override
+    public int getPhase() {
+        // phase 가 낮을수록 늦게 종료됨 : graceful shutdown -> PointMutationGate -> 웹 서버 종료
+        return WebServerApplicationContext.GRACEFUL_SHUTDOWN_PHASE - 1;
+    }
+
+    public int getAbandonedCount() {
+        return abandoned.get();
+    }
+
+    private int inFlightCount() {
+        return inFlight.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private synchronized boolean awaitDrain(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!inFlight.isEmpty()) {
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) return false;
+            try {
+                wait(remainingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return inFlight.isEmpty();
+            }
+        }
+        return true;
+    }
+}
@@ -1,63 +1,74 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointLotTable;
+import io.hhplus.tdd.database.PointTransaction;
+import io.hhplus.tdd.database.UserPointRepository;
 import io.hhplus.tdd.exception.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
-import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointTransaction pointTransaction;
+    private final PointLotTable pointLotTable;
+    private final PointExpirationWheel pointExpirationWheel;
+    private final PointMutationGate pointMutationGate;
 
     private final ConcurrentHashMap<Long, ReentrantLock> locks = new ConcurrentHashMap<>();
+    // 유저별 마지막으로 커밋된 UserPoint 와 내역 건수
+    private final ConcurrentHashMap<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    // 스냅샷이 게시되기를 기다리는 조회 요청
+    private final ConcurrentHashMap<Long, CompletableFuture<Snapshot>> snapshotWaiters = new ConcurrentHashMap<>();
+
+    private static final long SNAPSHOT_WAIT_MILLIS = 1_000L;
 
     /**
      * 특정 유저의 포인트를 조회
+     * 마지막으로 커밋된 스냅샷을 반환하므로 쓰기 작업의 Lock 을 기다리지 않는다.
      * @param userId 조회할 유저의 ID
      * @return user point
      * @throws InvalidUserIdException userId가 유효하지 않은 경우
      * @throws UserNotFoundException 유저를 찾지 못한 경우
      */
     public UserPoint getUserPoints(long userId){
-        if (userId < 0) throw new InvalidUserIdException();
-        UserPoint userPoint = userPointTable.selectById(userId);
-        if (userPoint == null) {
-            throw new UserNotFoundException();
-        }
-        return userPoint;
+        return getSnapshot(userId).userPoint();
     }
 
 
     /**
      * 특정 유저의 포인트 충전/이용 내역을 조회
+     * 스냅샷에 게시된 건수까지만 반환하므로 아직 게시되지 않은 쓰기 작업의 내역은 보이지 않는다.
      * @param userId 조회할 유저의 ID
      * @return user point history
      * @throws InvalidUserIdException userId가 유효하지 않은 경우
      * @throws UserNotFoundException 유저를 찾지 못한 경우
      */
     public List<PointHistory> getUserPointHistory(long userId){
-        if (userId < 0) throw new InvalidUserIdException();
-        UserPoint userPoint = userPointTable.selectById(userId);
-        if (userPoint == null) {
-            throw new UserNotFoundException();
+        Snapshot snapshot = getSnapshot(userId);
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(userId);
+        if (histories.size() <= snapshot.historyCount()) {
+            return histories;
         }
-        return pointHistoryTable.selectAllByUserId(userPoint.id());
+        return histories.subList(0, snapshot.historyCount());
     }
 
     /**
@@ -82,10 +93,17 @@ public class PointService {
             if (point > PointConstants.MAX_POINT) throw new OverPointChargeFailedException();
 
             // user point 충전
-            UserPoint chargeUserPoint = userPointTable.insertOrUpdate(userPoint.id(), point);
+            UserPoint chargeUserPoint = userPointRepository.insertOrUpdate(userPoint.id(), point);
 
             // user history 기록
-            pointHistoryTable.insert(chargeUserPoint.id(), chargeUserPoint.point(), TransactionType.CHARGE, chargeUserPoint.updateMillis());
+            pointHistoryRepository.insert(chargeUserPoint.id(), chargeUserPoint.point(), TransactionType.CHARGE, chargeUserPoint.updateMillis());
+
+            // 커밋된 뒤에 충전 포인트 만료 등록
+            long expireMillis = chargeUserPoint.updateMillis() + PointConstants.POINT_EXPIRE_MILLIS;
+            pointTransaction.afterCommit(() -> {
+                pointLotTable.insert(chargeUserPoint.id(), amount, chargeUserPoint.updateMillis(), expireMillis);
+                pointExpirationWheel.schedule(chargeUserPoint.id(), expireMillis);
+            });
 
             return chargeUserPoint;
         });
@@ -108,39 +126,266 @@ public class PointService {
             if (point < 0) throw new OverPointSpendFailedException();
 
             // user point 사용
-            UserPoint spendUserPoint = userPointTable.insertOrUpdate(userId, point);
+            UserPoint spendUserPoint = userPointRepository.insertOrUpdate(userId, point);
 
             // user history 기록
-            pointHistoryTable.insert(spendUserPoint.id(), spendUserPoint.point(), TransactionType.USE, spendUserPoint.updateMillis());
+            pointHistoryRepository.insert(spendUserPoint.id(), spendUserPoint.point(), TransactionType.USE, spendUserPoint.updateMillis());
+
+            // 커밋된 뒤에 가장 오래된 충전 포인트부터 차감
+            pointTransaction.afterCommit(() -> pointLotTable.use(spendUserPoint.id(), amount));
 
             return spendUserPoint;
         });
     }
 
+    /**
+     * 만료 시각이 도래한 포인트를 유저별로 묶어서 차감
+     * @param nowMillis 현재 시각
+     * @return 포인트가 만료된 유저들의 UserPoint
+     */
+    public List<UserPoint> expireUserPoints(long nowMillis) {
+        Set<Long> userIds = pointExpirationWheel.advanceClock(nowMillis);
+        List<UserPoint> expiredUserPoints = new ArrayList<>();
+
+        for (long userId : userIds) {
+            UserPoint expiredUserPoint = expireUserPoint(userId, nowMillis);
+            if (expiredUserPoint != null) expiredUserPoints.add(expiredUserPoint);
+        }
+        return expiredUserPoints;
+    }
+
+    /**
+     * 특정 유저의 만료 시각이 도래한 포인트를 차감
+     * 다른 작업이 유저의 Lock 을 잡고 있으면 기다리지 않고 다음 tick 으로 미룬다.
+     * @param userId 만료 대상 유저의 ID
+     * @param nowMillis 현재 시각
+     * @return 포인트가 만료된 경우 UserPoint, 만료할 포인트가 없거나 다음 tick 으로 미룬 경우 null
+     */
+    public UserPoint expireUserPoint(long userId, long nowMillis) {
+        // 서버 종료 중에는 다음 tick 에 다시 시도
+        if (!pointMutationGate.tryEnter(userId)) {
+            rescheduleExpiration(userId, nowMillis);
+            log.debug("서버 종료 중이라 포인트 만료를 미룹니다. userId={}", userId);
+            return null;
+        }
+
+        try {
+            final Lock lock = locks.computeIfAbsent(userId, id -> new ReentrantLock(true));
+            if (!lock.tryLock()) {
+                rescheduleExpiration(userId, nowMillis);
+                log.debug("다른 작업이 처리 중이라 포인트 만료를 미룹니다. userId={}", userId);
+                return null;
+            }
+            try {
+                return applyLocked(userId, userPoint -> {
+                    long expired = pointLotTable.expiredAmount(userId, nowMillis);
+                    // 이미 사용된 포인트는 만료할 것이 없음
+                    if (expired == 0) return null;
+
+                    // lot 합계는 잔액을 넘을 수 없음 (넘는다면 lot 과 잔액이 어긋난 상태)
+                    if (expired > userPoint.point()) {
+                        log.error("만료 포인트가 잔액보다 큽니다. userId={}, point={}, expired={}", userId, userPoint.point(), expired);
+                    }
+                    long point = Math.max(0, userPoint.point() - expired);
+                    UserPoint expireUserPoint = userPointRepository.insertOrUpdate(userId, point);
+
+                    // user history 기록
+                    pointHistoryRepository.insert(expireUserPoint.id(), expireUserPoint.point(), TransactionType.EXPIRE, expireUserPoint.updateMillis());
+
+                    // 잔액과 내역이 커밋된 뒤에 lot 제거 (실패 시 재시도할 수 있도록)
+                    pointTransaction.afterCommit(() -> pointLotTable.expire(userId, nowMillis));
+
+                    return expireUserPoint;
+                });
+            } finally {
+                lock.unlock();
+            }
+        } catch (PointServiceUnavailableException e) {
+            rescheduleExpiration(userId, nowMillis);
+            log.debug("서버 종료 중이라 포인트 만료를 미룹니다. userId={}", userId);
+        } catch (RuntimeException e) {
+            rescheduleExpiration(userId, nowMillis);
+            log.warn("포인트 만료 처리에 실패했습니다. 다음 tick 에 다시 시도합니다. userId={}", userId, e);
+        } finally {
+            pointMutationGate.exit(userId);
+        }
+        return null;
+    }
+
+    /**
+     * 처리하지 못한 유저의 포인트 만료를 다음 tick 에 다시 등록
+     * @param userId 만료 대상 유저의 ID
+     * @param nowMillis 현재 시각
+     */
+    public void rescheduleExpiration(long userId, long nowMillis) {
+        pointExpirationWheel.schedule(userId, nowMillis + pointExpirationWheel.getTickMillis());
+    }
+
     /**
      * 특정 유저의 여러 요청을 순서대로 차리
      * @param userId 조회할 유저의 ID
-     * @param operation UserPoint와 관련된 작업
+     * @param operation UserPoint와 관련된 작업, 포인트를 변경했다면 내역을 1건 기록하고 변경된 UserPoint 를, 변경하지 않았다면 null 을 반환
      * @return 작업 결과로 반환되는 UserPoint
      *  @throws InvalidUserIdException userId가 유효하지 않은 경우
      *  @throws UserNotFoundException 유저를 찾지 못한 경우
+     *  @throws PointServiceUnavailableException 서버 종료 중인 경우
      */
     private UserPoint pointProcess(long userId, Function<UserPoint, UserPoint> operation) {
         // 불필요한 Lock 객체 생성 전 예외처리
         if (userId < 0) throw new InvalidUserIdException();
-        final Lock lock = locks.computeIfAbsent(userId, id -> new ReentrantLock(true));
+        // 종료 중에는 새 작업을 받지 않음
+        if (!pointMutationGate.tryEnter(userId)) throw new PointServiceUnavailableException();
+
+        try {
+            final Lock lock = locks.computeIfAbsent(userId, id -> new ReentrantLock(true));
+
+            lock.lock();
+            try {
+                return applyLocked(userId, operation);
+            }finally {
+                lock.unlock();
+            }
+        } finally {
+            pointMutationGate.exit(userId);
+        }
+    }
+
+    /**
+     * 유저별 Lock 을 잡은 상태에서 작업을 실행하고 커밋된 결과를 스냅샷으로 게시
+     */
+    private UserPoint applyLocked(long userId, Function<UserPoint, UserPoint> operation) {
+        // drain 시간이 지났으면 아무것도 쓰지 않고 포기
+        if (pointMutationGate.shouldAbandon()) throw new PointServiceUnavailableException();
+
+        // 사용자 조회
+        UserPoint userPoint = userPointRepository.selectById(userId);
+        if (userPoint == null) {
+            failSnapshotWaiters(userId, new UserNotFoundException());
+            throw new UserNotFoundException();
+        }
+        // 스냅샷이 없으면 쓰기 전의 커밋된 값을 먼저 게시 (기다리는 조회 요청이 바로 반환되도록)
+        Snapshot committed = snapshots.get(userId);
+        if (committed == null) {
+            committed = new Snapshot(userPoint, pointHistoryRepository.selectAllByUserId(userId).size());
+            publish(committed);
+        }
+
+        // 유저 포인트와 내역은 Lock 을 풀기 전에 하나의 트랜잭션으로 커밋 (lot, 타이밍 휠은 커밋 후에 반영)
+        UserPoint result = pointTransaction.execute(() -> operation.apply(userPoint));
+
+        // 작업이 끝난 뒤에 포인트와 내역 건수를 함께 교체 (조회 시 중간 상태가 보이지 않도록)
+        if (result != null) publish(new Snapshot(result, committed.historyCount() + 1));
+        return result;
+    }
+
+    /**
+     * 유저의 스냅샷을 조회하고, 없으면 저장소에서 읽는다.
+     */
+    private Snapshot getSnapshot(long userId) {
+        if (userId < 0) throw new InvalidUserIdException();
+        Snapshot snapshot = snapshots.get(userId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return loadSnapshot(userId);
+    }
+
+    /**
+     * 스냅샷이 없는 유저를 저장소에서 조회
+     * 쓰기 작업이 Lock 을 잡고 있으면 저장소를 직접 읽지 않고(쓰는 중인 값이 보일 수 있음),
+     * 그 작업이 게시하는 커밋된 스냅샷을 기다린다.
+     * 쓰기가 한 번도 없었던 빈 유저는 Lock 과 스냅샷을 만들지 않는다. (없는 ID 조회로 맵이 커지지 않도록)
+     */
+    private Snapshot loadSnapshot(long userId) {
+        // 쓰기 작업은 항상 Lock 을 먼저 만들기 때문에, 읽기 전후로 Lock 이 없었다면 읽은 값은 쓰는 중인 값이 아님
+        if (!locks.containsKey(userId)) {
+            Snapshot snapshot = readSnapshot(userId);
+            if (!locks.containsKey(userId) && snapshot.isEmpty()) {
+                return snapshot;
+            }
+        }
+
+        final ReentrantLock lock = locks.computeIfAbsent(userId, id -> new ReentrantLock(true));
+        if (lock.tryLock()) {
+            try {
+                return loadLocked(userId);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        CompletableFuture<Snapshot> waiter = snapshotWaiters.computeIfAbsent(userId, id -> new CompletableFuture<>());
+        // 등록 전에 이미 게시된 경우
+        Snapshot snapshot = snapshots.get(userId);
+        if (snapshot != null) {
+            return snapshot;
+        }
 
-        lock.lock();
         try {
-            // 사용자 조회
-            UserPoint userPoint = userPointTable.selectById(userId);
-            if (userPoint == null) {
-                throw new UserNotFoundException();
+            return waiter.get(SNAPSHOT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (TimeoutException e) {
+            // 스냅샷이 게시되지 않은 채 작업이 끝난 경우 (예: 종료 중 포기) Lock 을 잡고 조회
+            lock.lock();
+            try {
+                return loadLocked(userId);
+            } finally {
+                lock.unlock();
             }
-            return operation.apply(userPoint);
+        }
+    }
+
+    /**
+     * 유저별 Lock 안에서 스냅샷을 조회하고, 없으면 저장소에서 읽어 게시
+     */
+    private Snapshot loadLocked(long userId) {
+        Snapshot snapshot = snapshots.get(userId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        snapshot = readSnapshot(userId);
+        publish(snapshot);
+        return snapshot;
+    }
+
+    private Snapshot readSnapshot(long userId) {
+        UserPoint userPoint = userPointRepository.selectById(userId);
+        if (userPoint == null) {
+            failSnapshotWaiters(userId, new UserNotFoundException());
+            throw new UserNotFoundException();
+        }
+        return new Snapshot(userPoint, pointHistoryRepository.selectAllByUserId(userId).size());
+    }
+
+    /**
+     * 커밋된 스냅샷으로 교체하고 기다리던 조회 요청에 전달 (유저별 Lock 안에서만 호출)
+     */
+    private void publish(Snapshot snapshot) {
+        long userId = snapshot.userPoint().id();
+        snapshots.put(userId, snapshot);
+        CompletableFuture<Snapshot> waiter = snapshotWaiters.remove(userId);
+        if (waiter != null) waiter.complete(snapshot);
+    }
+
+    private void failSnapshotWaiters(long userId, RuntimeException e) {
+        CompletableFuture<Snapshot> waiter = snapshotWaiters.remove(userId);
+        if (waiter != null) waiter.completeExceptionally(e);
+    }
+
+    /**
+     * 함께 커밋된 UserPoint 와 내역 건수
+     * 내역은 유저별 Lock 안에서 순서대로 추가되므로 앞에서부터 historyCount 건이 이 UserPoint 까지의 내역이다.
+     */
+    private record Snapshot(UserPoint userPoint, int historyCount) {
 
-        }finally {
-            lock.unlock();
+        // 포인트도 내역도 없는, 저장소가 UserPoint.empty 로 돌려준 유저
+        private boolean isEmpty() {
+            return userPoint.point() == 0 && historyCount == 0;
         }
     }
 
@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS user_point (
+    id            BIGINT PRIMARY KEY,
+    point         BIGINT NOT NULL,
+    update_millis BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS point_history (
+    id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id       BIGINT      NOT NULL,
+    amount        BIGINT      NOT NULL,
+    type          VARCHAR(16) NOT NULL,
+    update_millis BIGINT      NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_point_history_user_id ON point_history (user_id);
@@ -0,0 +1,105 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+@SpringBootTest
+@ActiveProfiles("jdbc")
+class JdbcPointRepositoryTest {
+
+    @Autowired
+    private UserPointRepository userPointRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private PointTransaction pointTransaction;
+
+    @Test
+    @DisplayName("jdbc 프로필에서는 JDBC 저장소가 선택된다.")
+    void shouldUseJdbcRepositories() {
+        assertThat(userPointRepository).isInstanceOf(JdbcUserPointRepository.class);
+        assertThat(pointHistoryRepository).isInstanceOf(JdbcPointHistoryRepository.class);
+        assertThat(pointTransaction).isInstanceOf(JdbcPointTransaction.class);
+    }
+
+    @Test
+    @DisplayName("저장한 유저 포인트를 조회할 수 있고, 없는 유저는 0 포인트로 조회된다.")
+    void shouldSelectUserPoint() {
+        // given
+        userPointRepository.insertOrUpdate(100L, 3000L);
+        userPointRepository.insertOrUpdate(100L, 5000L);
+
+        // when, then
+        assertThat(userPointRepository.selectById(100L).point()).isEqualTo(5000L);
+        assertThat(userPointRepository.selectById(101L)).extracting(UserPoint::point).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("저장한 포인트 내역을 순서대로 조회할 수 있다.")
+    void shouldSelectHistories() {
+        // given
+        long now = System.currentTimeMillis();
+        pointHistoryRepository.insert(200L, 3000L, TransactionType.CHARGE, now);
+        pointHistoryRepository.insert(200L, 1000L, TransactionType.USE, now);
+
+        // when
+        List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(200L);
+
+        // then
+        assertThat(histories).extracting(PointHistory::type).containsExactly(TransactionType.CHARGE, TransactionType.USE);
+    }
+
+    @Test
+    @DisplayName("내역 저장에 실패하면 유저 포인트 변경도 함께 롤백된다.")
+    void shouldRollbackUserPointWhenHistoryInsertFailed() {
+        // given
+        userPointRepository.insertOrUpdate(300L, 1000L);
+
+        // when
+        assertThatThrownBy(() -> pointTransaction.execute(() -> {
+            userPointRepository.insertOrUpdate(300L, 2000L);
+            throw new IllegalStateException("내역 저장 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(userPointRepository.selectById(300L).point()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("커밋 후 작업은 트랜잭션이 커밋된 뒤에만 실행된다.")
+    void shouldRunAfterCommitActionOnlyWhenCommitted() {
+        // given
+        AtomicBoolean committed = new AtomicBoolean();
+        AtomicBoolean rolledBack = new AtomicBoolean();
+
+        // when
+        pointTransaction.execute(() -> {
+            pointTransaction.afterCommit(() -> committed.set(true));
+            // 커밋 전에는 실행되지 않음
+            assertThat(committed).isFalse();
+            return userPointRepository.insertOrUpdate(400L, 1000L);
+        });
+        assertThatThrownBy(() -> pointTransaction.execute(() -> {
+            pointTransaction.afterCommit(() -> rolledBack.set(true));
+            throw new IllegalStateException("내역 저장 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(committed).isTrue();
+        assertThat(rolledBack).isFalse();
+    }
+}
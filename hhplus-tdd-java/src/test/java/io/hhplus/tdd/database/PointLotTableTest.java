@@ -0,0 +1,75 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.PointLot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class PointLotTableTest {
+
+    private final PointLotTable pointLotTable = new PointLotTable();
+
+    @Test
+    @DisplayName("포인트 사용 시 가장 오래된 lot 의 일부만 차감하고 나머지는 남긴다.")
+    void shouldSplitOldestLotWhenUsePartially() {
+        // given
+        pointLotTable.insert(1L, 1000L, 0L, 100L);
+        pointLotTable.insert(1L, 2000L, 10L, 110L);
+
+        // when
+        long used = pointLotTable.use(1L, 300L);
+
+        // then
+        assertThat(used).isEqualTo(300L);
+        assertThat(pointLotTable.expiredAmount(1L, 100L)).isEqualTo(700L);
+        assertThat(pointLotTable.expiredAmount(1L, 110L)).isEqualTo(2700L);
+    }
+
+    @Test
+    @DisplayName("포인트 사용 금액이 여러 lot 에 걸치면 오래된 lot 부터 차례로 차감한다.")
+    void shouldUseMultipleLotsInOrder() {
+        // given
+        pointLotTable.insert(1L, 1000L, 0L, 100L);
+        pointLotTable.insert(1L, 2000L, 10L, 110L);
+        pointLotTable.insert(1L, 3000L, 20L, 120L);
+
+        // when
+        long used = pointLotTable.use(1L, 2500L);
+
+        // then
+        assertThat(used).isEqualTo(2500L);
+        assertThat(pointLotTable.expiredAmount(1L, 100L)).isZero();
+        assertThat(pointLotTable.expiredAmount(1L, 110L)).isEqualTo(500L);
+        assertThat(pointLotTable.expiredAmount(1L, 120L)).isEqualTo(3500L);
+    }
+
+    @Test
+    @DisplayName("lot 보다 많이 사용하면 lot 에 있던 포인트만큼만 차감된다.")
+    void shouldReturnUsedAmountOfLots() {
+        // given
+        pointLotTable.insert(1L, 1000L, 0L, 100L);
+
+        // when, then
+        assertThat(pointLotTable.use(1L, 1500L)).isEqualTo(1000L);
+        assertThat(pointLotTable.use(2L, 500L)).isZero();
+    }
+
+    @Test
+    @DisplayName("일부 사용된 lot 이 만료되면 남은 포인트만 만료되고 lot 이 제거된다.")
+    void shouldExpireRemainingAmountAfterPartialUse() {
+        // given
+        pointLotTable.insert(1L, 1000L, 0L, 100L);
+        PointLot notExpired = pointLotTable.insert(1L, 2000L, 10L, 110L);
+        pointLotTable.use(1L, 400L);
+
+        // when
+        long expired = pointLotTable.expire(1L, 100L);
+
+        // then
+        assertThat(expired).isEqualTo(600L);
+        assertThat(pointLotTable.expiredAmount(1L, 100L)).isZero();
+        assertThat(pointLotTable.expire(1L, notExpired.expireMillis())).isEqualTo(2000L);
+    }
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.exception.InvalidUserIdException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+
+@WebMvcTest(PointController.class)
+class PointControllerTest {
+
+    private static final MediaType BINARY = MediaType.valueOf(PointHistoryCodec.MEDIA_TYPE_VALUE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private PointService pointService;
+
+    private final List<PointHistory> histories = List.of(
+            new PointHistory(1L, 1L, 3000L, TransactionType.CHARGE, 1_000L),
+            new PointHistory(2L, 1L, 2000L, TransactionType.USE, 2_000L)
+    );
+
+    @Test
+    @DisplayName("Accept 헤더가 없으면 포인트 내역을 JSON 으로 반환한다.")
+    void shouldReturnJsonHistoriesWithoutAccept() throws Exception {
+        // given
+        when(pointService.getUserPointHistory(1L)).thenReturn(histories);
+
+        // when, then
+        mockMvc.perform(get("/point/1/histories"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].type").value("CHARGE"));
+    }
+
+    @Test
+    @DisplayName("바이너리 포맷을 요청하면 포인트 내역을 바이너리로 반환한다.")
+    void shouldReturnBinaryHistoriesWithBinaryAccept() throws Exception {
+        // given
+        when(pointService.getUserPointHistory(1L)).thenReturn(histories);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/point/1/histories").accept(BINARY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BINARY))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // then
+        assertThat(PointHistoryCodec.decode(new ByteArrayInputStream(body))).isEqualTo(histories);
+    }
+
+    @Test
+    @DisplayName("바이너리 포맷 요청이 실패하면 JSON 형식의 400 에러를 반환한다.")
+    void shouldReturnJsonErrorWithBinaryAccept() throws Exception {
+        // given
+        when(pointService.getUserPointHistory(-1L)).thenThrow(new InvalidUserIdException());
+
+        // when, then
+        mockMvc.perform(get("/point/-1/histories").accept(BINARY))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("400"));
+    }
+}
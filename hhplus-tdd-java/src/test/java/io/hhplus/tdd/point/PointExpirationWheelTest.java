@@ -0,0 +1,62 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class PointExpirationWheelTest {
+
+    private static final long START = 0L;
+
+    @Test
+    @DisplayName("만료 시각이 되기 전에는 만료되지 않는다.")
+    void shouldNotExpireBeforeDeadline() {
+        // given
+        PointExpirationWheel wheel = new PointExpirationWheel(10L, 8, START);
+        wheel.schedule(1L, 55L);
+
+        // when, then
+        assertThat(wheel.advanceClock(50L)).isEmpty();
+        assertThat(wheel.advanceClock(60L)).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 휠에 등록된 만료 시각도 시간이 지나면 만료된다.")
+    void shouldExpireEntryInOverflowWheel() {
+        // given
+        PointExpirationWheel wheel = new PointExpirationWheel(10L, 8, START);
+        wheel.schedule(1L, 1_000L);
+        wheel.schedule(2L, 75L);
+
+        // when, then
+        assertThat(wheel.advanceClock(999L)).containsExactly(2L);
+        assertThat(wheel.advanceClock(1_000L)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각을 등록하면 다음 진행 시 바로 만료된다.")
+    void shouldExpireImmediatelyWhenDeadlinePassed() {
+        // given
+        PointExpirationWheel wheel = new PointExpirationWheel(10L, 8, 100L);
+        wheel.schedule(1L, 50L);
+
+        // when, then
+        assertThat(wheel.advanceClock(100L)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("같은 유저의 여러 만료는 한 번에 묶여서 처리된다.")
+    void shouldBatchExpirationsOfSameUser() {
+        // given
+        PointExpirationWheel wheel = new PointExpirationWheel(10L, 8, START);
+        wheel.schedule(1L, 30L);
+        wheel.schedule(1L, 40L);
+        wheel.schedule(2L, 40L);
+
+        // when, then
+        assertThat(wheel.advanceClock(40L)).containsExactlyInAnyOrder(1L, 2L);
+    }
+}
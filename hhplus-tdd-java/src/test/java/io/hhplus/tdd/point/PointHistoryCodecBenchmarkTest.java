@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+/**
+ * JSON 과 바이너리 포맷의 포인트 내역 직렬화 비교
+ * ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class PointHistoryCodecBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryCodecBenchmarkTest.class);
+    private static final int HISTORY_SIZE = 10_000;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("바이너리 포맷이 JSON 보다 작은 크기로 직렬화된다.")
+    void compareJsonAndBinary() throws Exception {
+        // given
+        List<PointHistory> histories = histories();
+
+        // when
+        byte[] json = objectMapper.writeValueAsBytes(histories);
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        PointHistoryCodec.encode(histories, binary);
+
+        long jsonNanos = measure(out -> objectMapper.writeValue(out, histories));
+        long binaryNanos = measure(out -> PointHistoryCodec.encode(histories, out));
+
+        log.info("json   : {} bytes (gzip {} bytes), {} us/op", json.length, gzipSize(json), jsonNanos / 1_000);
+        log.info("binary : {} bytes (gzip {} bytes), {} us/op", binary.size(), gzipSize(binary.toByteArray()), binaryNanos / 1_000);
+
+        // then
+        assertThat(binary.size()).isLessThan(json.length);
+    }
+
+    private long measure(Encoder encoder) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            encoder.encode(new ByteArrayOutputStream(HISTORY_SIZE * 64));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            encoder.encode(new ByteArrayOutputStream(HISTORY_SIZE * 64));
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private int gzipSize(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+
+    private List<PointHistory> histories() {
+        List<PointHistory> histories = new ArrayList<>(HISTORY_SIZE);
+        long now = System.currentTimeMillis();
+        long point = 0;
+        for (int i = 1; i <= HISTORY_SIZE; i++) {
+            TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            point = type == TransactionType.USE ? point - 500L : point + 1000L;
+            histories.add(new PointHistory(i, 1L, point, type, now + i * 37L));
+        }
+        return histories;
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void encode(OutputStream out) throws IOException;
+    }
+}
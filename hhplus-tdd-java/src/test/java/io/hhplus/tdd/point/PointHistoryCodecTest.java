@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class PointHistoryCodecTest {
+
+    @Test
+    @DisplayName("바이너리로 인코딩한 포인트 내역을 그대로 디코딩할 수 있다.")
+    void shouldDecodeEncodedHistories() throws Exception {
+        // given
+        long now = System.currentTimeMillis();
+        List<PointHistory> histories = List.of(
+                new PointHistory(1L, 1L, 3000L, TransactionType.CHARGE, now),
+                new PointHistory(2L, 1L, 1000L, TransactionType.USE, now + 10L),
+                new PointHistory(7L, 1L, 0L, TransactionType.EXPIRE, now - 5L)
+        );
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointHistoryCodec.encode(histories, out);
+
+        // then
+        assertThat(PointHistoryCodec.decode(new ByteArrayInputStream(out.toByteArray()))).isEqualTo(histories);
+    }
+
+    @Test
+    @DisplayName("빈 포인트 내역도 인코딩/디코딩할 수 있다.")
+    void shouldEncodeEmptyHistories() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointHistoryCodec.encode(List.of(), out);
+
+        // then
+        assertThat(out.toByteArray()).containsExactly(PointHistoryCodec.FORMAT_VERSION, 0);
+        assertThat(PointHistoryCodec.decode(new ByteArrayInputStream(out.toByteArray()))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 종류는 enum 순서와 관계없이 고정된 코드로 기록된다.")
+    void shouldWriteFixedTypeCode() throws Exception {
+        // given
+        List<PointHistory> histories = List.of(new PointHistory(1L, 1L, 1L, TransactionType.EXPIRE, 0L));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointHistoryCodec.encode(histories, out);
+
+        // then : [버전, 건수, id, userId, amount, type, updateMillis]
+        assertThat(out.toByteArray()).containsExactly(1, 1, 2, 2, 2, 3, 0);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 포맷 버전은 디코딩에 실패한다.")
+    void shouldFailWhenUnknownVersion() {
+        // given
+        byte[] bytes = {2, 0};
+
+        // when, then
+        assertThatThrownBy(() -> PointHistoryCodec.decode(new ByteArrayInputStream(bytes))).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("건수가 매우 크고 내역이 중간에 끊긴 경우 EOFException 으로 실패한다.")
+    void shouldFailWithEofWhenRecordsRunOut() {
+        // given : [버전, 건수 = 2^31 - 1, id, userId 까지만 있는 내역]
+        byte[] bytes = {1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 2, 2};
+
+        // when, then
+        assertThatThrownBy(() -> PointHistoryCodec.decode(new ByteArrayInputStream(bytes))).isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    @DisplayName("int 범위를 넘는 건수는 디코딩에 실패한다.")
+    void shouldFailWhenSizeOverflows() {
+        // given : [버전, 건수 = 2^35 - 1]
+        byte[] bytes = {1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x7F};
+
+        // when, then
+        assertThatThrownBy(() -> PointHistoryCodec.decode(new ByteArrayInputStream(bytes))).isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,249 @@
+package io.hhplus.tdd.point;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+/**
+ * TddApplication 을 로컬에 띄우고 PointController 에 조회/충전/사용 요청을 섞어서 보내는 부하 테스트
+ * ./gradlew loadTest -Pload.concurrency=32 -Pload.rate=500 -Pload.slo.p99Millis=800 처럼 실행
+ *
+ * - load.concurrency : 요청을 보내는 스레드 수 (기본 16)
+ * - load.rate : 초당 목표 요청 수, 0 이면 최대 속도 (기본 200)
+ * - load.warmupSeconds / load.durationSeconds : 워밍업, 측정 시간 (기본 5 / 30)
+ * - load.users / load.skew : 유저 수와 Zipf 지수, 0 이면 균등 분포 (기본 1000 / 1.0)
+ * - load.pointRatio / load.historyRatio / load.chargeRatio : 요청 비율, 나머지는 사용 (기본 0.6 / 0.2 / 0.1)
+ * - load.slo.p99Millis / load.slo.p999Millis / load.slo.minThroughput : 지정하면 초과 시 실패 (기본 0 = 검사 안함)
+ * - load.slo.maxUnsentRatio : 측정 구간에 예정됐지만 보내지 못한 요청 비율의 상한 (기본 0 = 검사 안함)
+ *
+ * 목표 rate 가 있으면 예정된 요청 시각부터 응답까지를 지연시간으로 기록해 coordinated omission 을 피한다.
+ * 측정 종료 시각이 지나면 밀린 요청은 보내지 않고 미전송(unsent)으로 집계하며,
+ * 처리량은 측정 시작부터 마지막 응답까지 실제 걸린 시간으로 계산한다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PointLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLoadTest.class);
+    private static final long CHARGE_AMOUNT = 100L;
+    private static final long USE_AMOUNT = 50L;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    private enum Operation {
+        POINT, HISTORY, CHARGE, USE
+    }
+
+    @Test
+    @DisplayName("조회/충전/사용 요청을 섞어서 보냈을 때 지연시간 SLO 를 만족한다")
+    void runMixedLoad() throws Exception {
+        int concurrency = intProperty("load.concurrency", 16);
+        double rate = doubleProperty("load.rate", 200);
+        long warmupNanos = TimeUnit.SECONDS.toNanos(intProperty("load.warmupSeconds", 5));
+        long durationNanos = TimeUnit.SECONDS.toNanos(intProperty("load.durationSeconds", 30));
+        double[] userCdf = zipfCdf(intProperty("load.users", 1000), doubleProperty("load.skew", 1.0));
+
+        double pointRatio = doubleProperty("load.pointRatio", 0.6);
+        double historyRatio = doubleProperty("load.historyRatio", 0.2);
+        double chargeRatio = doubleProperty("load.chargeRatio", 0.1);
+
+        // 스레드 하나가 요청을 보내는 간격
+        long intervalNanos = rate > 0 ? (long) (concurrency * 1_000_000_000L / rate) : 0;
+        AtomicLong rejected = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong unsent = new AtomicLong();
+        AtomicLong lastCompletion = new AtomicLong(Long.MIN_VALUE);
+
+        long start = System.nanoTime();
+        long measureStart = start + warmupNanos;
+        long end = measureStart + durationNanos;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+        List<Future<Map<Operation, Histogram>>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            long offset = intervalNanos * i / concurrency;
+            futures.add(executorService.submit(() -> {
+                Map<Operation, Histogram> histograms = newHistograms();
+                long intended = start + offset;
+                while (intended < end) {
+                    if (intervalNanos > 0) {
+                        long wait = intended - System.nanoTime();
+                        if (wait > 0) LockSupport.parkNanos(wait);
+                    } else {
+                        intended = System.nanoTime();
+                    }
+                    // 예정 시각보다 밀려 종료 시각을 넘겼으면 더 보내지 않는다.
+                    if (System.nanoTime() >= end) break;
+
+                    double dice = ThreadLocalRandom.current().nextDouble();
+                    Operation operation = dice < pointRatio ? Operation.POINT
+                            : dice < pointRatio + historyRatio ? Operation.HISTORY
+                            : dice < pointRatio + historyRatio + chargeRatio ? Operation.CHARGE
+                            : Operation.USE;
+                    int status = send(operation, nextUserId(userCdf));
+                    long completed = System.nanoTime();
+
+                    if (intended >= measureStart) {
+                        histograms.get(operation).recordValue(completed - intended);
+                        lastCompletion.accumulateAndGet(completed, Math::max);
+                        if (status >= 400 && status < 500) rejected.incrementAndGet();
+                        else if (status < 200 || status >= 300) errors.incrementAndGet();
+                    }
+                    intended += intervalNanos;
+                }
+                unsent.addAndGet(PointLoadTiming.unsent(Math.max(intended, measureStart), end, intervalNanos));
+                return histograms;
+            }));
+        }
+
+        Map<Operation, Histogram> histograms = newHistograms();
+        for (Future<Map<Operation, Histogram>> future : futures) {
+            future.get().forEach((operation, histogram) -> histograms.get(operation).add(histogram));
+        }
+        executorService.shutdown();
+
+        Histogram total = new Histogram(3);
+        histograms.values().forEach(total::add);
+        double throughput = PointLoadTiming.throughput(total.getTotalCount(), measureStart, lastCompletion.get());
+        double seconds = throughput > 0 ? total.getTotalCount() / throughput : 0;
+        double unsentRatio = unsent.get() == 0 ? 0 : (double) unsent.get() / (unsent.get() + total.getTotalCount());
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("concurrency=%d, rate=%s, duration=%.0fs, wall=%.1fs, rejected(4xx)=%d, errors=%d, unsent=%d%n",
+                concurrency, rate > 0 ? rate : "max", durationNanos / 1e9, seconds, rejected.get(), errors.get(), unsent.get()));
+        report.append(String.format("%-8s %10s %12s %10s %10s %10s %10s%n", "op", "count", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+        histograms.forEach((operation, histogram) -> report.append(line(operation.name(), histogram, seconds)));
+        report.append(line("TOTAL", total, seconds));
+        log.info("load test report\n{}", report);
+        writeReport(report.toString(), total);
+
+        // then
+        assertThat(errors.get()).isZero();
+        long p99Millis = intProperty("load.slo.p99Millis", 0);
+        if (p99Millis > 0) assertThat(toMillis(total.getValueAtPercentile(99.0))).isLessThanOrEqualTo(p99Millis);
+        long p999Millis = intProperty("load.slo.p999Millis", 0);
+        if (p999Millis > 0) assertThat(toMillis(total.getValueAtPercentile(99.9))).isLessThanOrEqualTo(p999Millis);
+        double minThroughput = doubleProperty("load.slo.minThroughput", 0);
+        if (minThroughput > 0) assertThat(throughput).isGreaterThanOrEqualTo(minThroughput);
+        double maxUnsentRatio = doubleProperty("load.slo.maxUnsentRatio", 0);
+        if (maxUnsentRatio > 0) assertThat(unsentRatio).isLessThanOrEqualTo(maxUnsentRatio);
+    }
+
+    private int send(Operation operation, long userId) {
+        String baseUrl = "http://localhost:" + port + "/point/" + userId;
+        HttpRequest request = switch (operation) {
+            case POINT -> HttpRequest.newBuilder(URI.create(baseUrl)).GET().build();
+            case HISTORY -> HttpRequest.newBuilder(URI.create(baseUrl + "/histories")).GET().build();
+            case CHARGE -> patch(baseUrl + "/charge", CHARGE_AMOUNT);
+            case USE -> patch(baseUrl + "/use", USE_AMOUNT);
+        };
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private HttpRequest patch(String url, long amount) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString(String.valueOf(amount)))
+                .build();
+    }
+
+    private long nextUserId(double[] cdf) {
+        double dice = ThreadLocalRandom.current().nextDouble();
+        int low = 0, high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < dice) low = mid + 1;
+            else high = mid;
+        }
+        return low + 1;
+    }
+
+    private double[] zipfCdf(int users, double skew) {
+        double[] cdf = new double[users];
+        double sum = 0;
+        for (int i = 0; i < users; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < users; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private Map<Operation, Histogram> newHistograms() {
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new Histogram(3));
+        }
+        return histograms;
+    }
+
+    private String line(String name, Histogram histogram, double seconds) {
+        return String.format("%-8s %10d %12.1f %10.1f %10.1f %10.1f %10.1f%n", name,
+                histogram.getTotalCount(), seconds > 0 ? histogram.getTotalCount() / seconds : 0,
+                histogram.getValueAtPercentile(50.0) / 1e6, histogram.getValueAtPercentile(99.0) / 1e6,
+                histogram.getValueAtPercentile(99.9) / 1e6, histogram.getMaxValue() / 1e6);
+    }
+
+    private void writeReport(String report, Histogram total) throws IOException {
+        Path reportDir = Path.of(System.getProperty("load.reportDir", "build/reports/load-test"));
+        Files.createDirectories(reportDir);
+        Files.writeString(reportDir.resolve("summary.txt"), report);
+        try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve("latency.hgrm")))) {
+            total.outputPercentileDistribution(out, 1e6);
+        }
+    }
+
+    private long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private int intProperty(String key, int defaultValue) {
+        return Integer.parseInt(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+
+    private double doubleProperty(String key, double defaultValue) {
+        return Double.parseDouble(System.getProperty(key, String.valueOf(defaultValue)));
+    }
+}
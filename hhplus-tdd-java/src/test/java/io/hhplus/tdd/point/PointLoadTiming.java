@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point;
+
+/**
+ * PointLoadTest 의 처리량, 미전송 요청 수 계산
+ */
+final class PointLoadTiming {
+
+    private PointLoadTiming() {
+    }
+
+    /**
+     * 측정 종료 시각까지 보내지 못한 예정 요청 수
+     * @param nextIntended 다음으로 보낼 예정이었던 요청 시각
+     * @param end 측정 종료 시각
+     * @param intervalNanos 요청 간격, 0 이면 최대 속도라 예정된 요청이 없다.
+     */
+    static long unsent(long nextIntended, long end, long intervalNanos) {
+        if (intervalNanos <= 0 || nextIntended >= end) return 0;
+        return (end - nextIntended - 1) / intervalNanos + 1;
+    }
+
+    /**
+     * 측정 시작부터 마지막 응답까지 실제 걸린 시간 기준의 초당 처리량
+     */
+    static double throughput(long count, long measureStart, long lastCompletion) {
+        if (count == 0 || lastCompletion <= measureStart) return 0;
+        return count * 1e9 / (lastCompletion - measureStart);
+    }
+}
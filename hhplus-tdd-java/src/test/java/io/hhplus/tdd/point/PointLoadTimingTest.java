@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class PointLoadTimingTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    @DisplayName("처리량은 설정한 측정 시간이 아니라 마지막 응답까지 걸린 시간으로 계산한다.")
+    void shouldComputeThroughputFromWallTime() {
+        // given : 10초 측정 예정이었지만 마지막 응답이 20초에 도착
+        long measureStart = 5 * SECOND;
+        long lastCompletion = measureStart + 20 * SECOND;
+
+        // when
+        double throughput = PointLoadTiming.throughput(2_000, measureStart, lastCompletion);
+
+        // then
+        assertThat(throughput).isEqualTo(100.0);
+    }
+
+    @Test
+    @DisplayName("측정 구간에 완료된 요청이 없으면 처리량은 0 이다.")
+    void shouldReturnZeroThroughputWithoutCompletion() {
+        assertThat(PointLoadTiming.throughput(0, SECOND, SECOND)).isZero();
+    }
+
+    @Test
+    @DisplayName("종료 시각까지 보내지 못한 예정 요청 수를 계산한다.")
+    void shouldCountUnsentRequests() {
+        // given : 100ms 간격, 다음 요청이 종료 950ms 전에 예정
+        long interval = SECOND / 10;
+        long end = 10 * SECOND;
+
+        // when, then : 9.05s, 9.15s, ... 9.95s 의 10건
+        assertThat(PointLoadTiming.unsent(end - 950_000_000L, end, interval)).isEqualTo(10);
+        assertThat(PointLoadTiming.unsent(end - interval, end, interval)).isEqualTo(1);
+        assertThat(PointLoadTiming.unsent(end, end, interval)).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 속도로 보내는 경우 미전송 요청은 없다.")
+    void shouldNotCountUnsentWithoutRate() {
+        assertThat(PointLoadTiming.unsent(0, 10 * SECOND, 0)).isZero();
+    }
+}
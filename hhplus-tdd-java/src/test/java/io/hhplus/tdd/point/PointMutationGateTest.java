@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+
+class PointMutationGateTest {
+
+    @Test
+    @DisplayName("종료 시 진행 중인 작업이 끝날 때까지 기다린다.")
+    void shouldWaitInFlightMutationWhenStop() throws Exception {
+        // given
+        PointMutationGate gate = new PointMutationGate(Duration.ofSeconds(5), Duration.ofSeconds(1));
+        assertThat(gate.tryEnter(1L)).isTrue();
+        CompletableFuture<Void> stop = CompletableFuture.runAsync(gate::stop);
+
+        // when
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertThat(stop).isNotDone();
+        assertThat(gate.tryEnter(2L)).isFalse();
+        gate.exit(1L);
+
+        // then
+        stop.get(1, TimeUnit.SECONDS);
+        assertThat(gate.shouldAbandon()).isFalse();
+        assertThat(gate.isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("drain 시간이 지나면 남은 작업은 포기하고 포기한 수를 기록한다.")
+    void shouldAbandonMutationAfterDrainTimeout() throws Exception {
+        // given
+        PointMutationGate gate = new PointMutationGate(Duration.ofMillis(100), Duration.ofSeconds(5));
+        assertThat(gate.tryEnter(1L)).isTrue();
+        CompletableFuture<Void> stop = CompletableFuture.runAsync(gate::stop);
+
+        // when
+        TimeUnit.MILLISECONDS.sleep(300);
+        boolean abandon = gate.shouldAbandon();
+        gate.exit(1L);
+
+        // then
+        stop.get(1, TimeUnit.SECONDS);
+        assertThat(abandon).isTrue();
+        assertThat(gate.getAbandonedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("웹 서버의 graceful shutdown 이 끝난 뒤, 웹 서버가 멈추기 전에 종료된다.")
+    void shouldStopAfterWebServerGracefulShutdown() {
+        // given
+        PointMutationGate gate = new PointMutationGate(Duration.ofSeconds(1), Duration.ofSeconds(1));
+
+        // when, then : phase 가 높은 Lifecycle 부터 종료된다.
+        assertThat(gate.getPhase())
+                .isLessThan(WebServerApplicationContext.GRACEFUL_SHUTDOWN_PHASE)
+                .isGreaterThan(WebServerApplicationContext.START_STOP_LIFECYCLE_PHASE);
+    }
+}
@@ -1,7 +1,10 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.InMemoryPointTransaction;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointLotTable;
+import io.hhplus.tdd.database.PointTransaction;
+import io.hhplus.tdd.database.UserPointRepository;
 import io.hhplus.tdd.exception.*;
 import static org.assertj.core.api.Assertions.*;
 import org.junit.jupiter.api.DisplayName;
@@ -9,12 +12,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.util.List;
-
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -23,10 +38,22 @@ class PointServiceTest {
 
     private static final Logger log = LoggerFactory.getLogger(PointServiceTest.class);
     @Mock
-    private UserPointTable userPointTable;
+    private UserPointRepository userPointRepository;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Spy
+    private PointTransaction pointTransaction = new InMemoryPointTransaction();
+
+    @Mock
+    private PointLotTable pointLotTable;
 
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private PointExpirationWheel pointExpirationWheel;
+
+    @Spy
+    private PointMutationGate pointMutationGate = new PointMutationGate(Duration.ofMillis(100), Duration.ofMillis(100));
 
     @InjectMocks
     private PointService pointService;
@@ -35,13 +62,43 @@ class PointServiceTest {
     @DisplayName("특정 유저의 포인트를 조회할 수 있다.")
     void getUserPoints() {
         // given
-        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 10000L, System.currentTimeMillis()));
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, 10000L, System.currentTimeMillis()));
         // when
         UserPoint userPoints = pointService.getUserPoints(1L);
         // then
         assertThat(userPoints.point()).isEqualTo(10000L);
     }
 
+    @Test
+    @DisplayName("포인트가 있는 유저는 한 번 조회한 뒤에는 스냅샷을 반환한다.")
+    void shouldCacheSnapshotOfExistingUser() {
+        // given
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, 10000L, System.currentTimeMillis()));
+
+        // when
+        pointService.getUserPoints(1L);
+        pointService.getUserPoints(1L);
+
+        // then
+        verify(userPointRepository, times(1)).selectById(1L);
+    }
+
+    @Test
+    @DisplayName("쓰기가 없었던 빈 유저는 조회해도 스냅샷을 남기지 않는다.")
+    void shouldNotCacheEmptyUser() {
+        // given
+        long unknownUserId = 99L;
+        when(userPointRepository.selectById(unknownUserId)).thenReturn(UserPoint.empty(unknownUserId));
+
+        // when
+        pointService.getUserPoints(unknownUserId);
+        UserPoint userPoint = pointService.getUserPoints(unknownUserId);
+
+        // then
+        assertThat(userPoint.point()).isZero();
+        verify(userPointRepository, times(2)).selectById(unknownUserId);
+    }
+
     @Test
     @DisplayName("잘못된 ID 값을 받을 경우 유저 조회에 실패한다.")
     void shouldFailWhenInvalidUserIdIs() {
@@ -57,7 +114,7 @@ class PointServiceTest {
     void shouldFailWhenUserNotFound() {
         // given
         long invalidUserId = 1L;
-        when(userPointTable.selectById(invalidUserId)).thenReturn(null);
+        when(userPointRepository.selectById(invalidUserId)).thenReturn(null);
         // when, then
         assertThatThrownBy(() -> pointService.getUserPoints(invalidUserId)).isInstanceOf(UserNotFoundException.class);
     }
@@ -68,8 +125,8 @@ class PointServiceTest {
         // given
         long userId = 1L;
         long amount = 10000L;
-        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 0, System.currentTimeMillis()));
-        when(userPointTable.insertOrUpdate(userId, amount)).thenReturn(new UserPoint(userId, amount, System.currentTimeMillis()));
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 0, System.currentTimeMillis()));
+        when(userPointRepository.insertOrUpdate(userId, amount)).thenReturn(new UserPoint(userId, amount, System.currentTimeMillis()));
 
         // when
         UserPoint userPoint = pointService.chargeUserPoints(userId, amount);
@@ -83,7 +140,7 @@ class PointServiceTest {
     @DisplayName("포인트 충전 시 특정 유저가 존재하지 않을 경우 충전에 실패한다.")
     void shouldFailWhenUserDoesNotExistGetUserChargePoint() {
         // given
-        when(userPointTable.selectById(2L)).thenReturn(null);
+        when(userPointRepository.selectById(2L)).thenReturn(null);
 
         // when, then
         assertThatThrownBy(() -> pointService.chargeUserPoints(2L,1000L)).isInstanceOf(UserNotFoundException.class);
@@ -103,7 +160,7 @@ class PointServiceTest {
         // given
         long userId = 1L;
         long amount = 1000000L;
-        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 10000, System.currentTimeMillis()));
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 10000, System.currentTimeMillis()));
 
         // when, then
         assertThatThrownBy(() -> pointService.chargeUserPoints(userId, amount)).isInstanceOf(OverPointChargeFailedException.class);
@@ -115,7 +172,7 @@ class PointServiceTest {
         // given
         long userId = 1L;
         long amount = 1100000L;
-        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 10000, System.currentTimeMillis()));
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 10000, System.currentTimeMillis()));
 
         // when, then
         assertThatThrownBy(() -> pointService.chargeUserPoints(userId, amount)).isInstanceOf(InvalidOverPointAmountException.class);
@@ -127,7 +184,7 @@ class PointServiceTest {
         // given
         long userId = 1L;
         long minusAmount = -90000L;
-        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, 0, System.currentTimeMillis()));
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 0, System.currentTimeMillis()));
 
         // when, then
         assertThatThrownBy(() -> pointService.chargeUserPoints(userId, minusAmount)).isInstanceOf(MinusPointChargeFailedException.class);
@@ -142,8 +199,8 @@ class PointServiceTest {
         long amount = 100000L;
         long spendAmount = 30000L;
         // when
-        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, amount, System.currentTimeMillis()));
-        when(userPointTable.insertOrUpdate(userId, amount - spendAmount)).thenReturn(new UserPoint(userId, amount - spendAmount, System.currentTimeMillis()));
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, amount, System.currentTimeMillis()));
+        when(userPointRepository.insertOrUpdate(userId, amount - spendAmount)).thenReturn(new UserPoint(userId, amount - spendAmount, System.currentTimeMillis()));
         UserPoint userPoint = pointService.spendUserPoints(userId, spendAmount);
 
         // then
@@ -154,7 +211,7 @@ class PointServiceTest {
     @DisplayName("포인트 사용 시 특정 유저가 존재하지 않을 경우 충전에 실패한다.")
     void shouldFailWhenUserDoesNotExistGetUserSpendPoint() {
         // given
-        when(userPointTable.selectById(2L)).thenReturn(null);
+        when(userPointRepository.selectById(2L)).thenReturn(null);
 
         // when, then
         assertThatThrownBy(() -> pointService.spendUserPoints(2L,1000L)).isInstanceOf(UserNotFoundException.class);
@@ -176,7 +233,7 @@ class PointServiceTest {
         long amount = 10000L;
         long overPayAmount = 20000L;
 
-        when(userPointTable.selectById(userId)).thenReturn(new UserPoint(userId, amount, System.currentTimeMillis()));
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, amount, System.currentTimeMillis()));
 
         // when, then
         assertThatThrownBy(() -> pointService.spendUserPoints(userId, overPayAmount)).isInstanceOf(OverPointSpendFailedException.class);
@@ -188,13 +245,13 @@ class PointServiceTest {
     void getUserPointHistory() {
         // given
         long cursor = 0;
-        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 10000L, System.currentTimeMillis()));
+        when(userPointRepository.selectById(1L)).thenReturn(new UserPoint(1L, 10000L, System.currentTimeMillis()));
         List<PointHistory> historyList = List.of(
                 new PointHistory(++cursor, 1L, 3000L, TransactionType.CHARGE, System.currentTimeMillis()),
                 new PointHistory(++cursor, 1L, 1000L, TransactionType.USE, System.currentTimeMillis())
         );
 
-        when(pointHistoryTable.selectAllByUserId(1L)).thenReturn(historyList);
+        when(pointHistoryRepository.selectAllByUserId(1L)).thenReturn(historyList);
 
         // when, then
         assertThat(pointService.getUserPointHistory(1L).size()).isEqualTo(2);
@@ -209,5 +266,257 @@ class PointServiceTest {
         assertThatThrownBy(() -> pointService.getUserPointHistory(-2L)).isInstanceOf(InvalidUserIdException.class);
     }
 
-}
+    @Test
+    @DisplayName("포인트를 충전하면 충전 시점으로부터 1년 뒤 만료가 등록된다.")
+    void shouldScheduleExpirationWhenChargeUserPoints() {
+        // given
+        long userId = 1L;
+        long amount = 10000L;
+        long updateMillis = System.currentTimeMillis();
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 0, updateMillis));
+        when(userPointRepository.insertOrUpdate(userId, amount)).thenReturn(new UserPoint(userId, amount, updateMillis));
+
+        // when
+        pointService.chargeUserPoints(userId, amount);
+
+        // then
+        long expireMillis = updateMillis + PointConstants.POINT_EXPIRE_MILLIS;
+        verify(pointLotTable).insert(userId, amount, updateMillis, expireMillis);
+        verify(pointExpirationWheel).schedule(userId, expireMillis);
+    }
+
+    @Test
+    @DisplayName("포인트 충전이 커밋되지 않으면 만료 lot 과 타이밍 휠에 반영하지 않는다.")
+    void shouldNotScheduleExpirationWhenChargeFailed() {
+        // given
+        long userId = 1L;
+        long amount = 10000L;
+        long updateMillis = System.currentTimeMillis();
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 0, updateMillis));
+        when(userPointRepository.insertOrUpdate(userId, amount)).thenReturn(new UserPoint(userId, amount, updateMillis));
+        when(pointHistoryRepository.insert(userId, amount, TransactionType.CHARGE, updateMillis)).thenThrow(new IllegalStateException());
+
+        // when
+        assertThatThrownBy(() -> pointService.chargeUserPoints(userId, amount)).isInstanceOf(IllegalStateException.class);
+
+        // then
+        long expireMillis = updateMillis + PointConstants.POINT_EXPIRE_MILLIS;
+        verify(pointLotTable, never()).insert(userId, amount, updateMillis, expireMillis);
+        verify(pointExpirationWheel, never()).schedule(userId, expireMillis);
+    }
+
+    @Test
+    @DisplayName("포인트를 사용하면 가장 오래된 충전 포인트부터 차감된다.")
+    void shouldUseOldestPointLotWhenSpendUserPoints() {
+        // given
+        long userId = 1L;
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 10000L, System.currentTimeMillis()));
+        when(userPointRepository.insertOrUpdate(userId, 7000L)).thenReturn(new UserPoint(userId, 7000L, System.currentTimeMillis()));
+
+        // when
+        pointService.spendUserPoints(userId, 3000L);
+
+        // then
+        verify(pointLotTable).use(userId, 3000L);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 도래한 포인트는 차감되고 만료 내역이 기록된다.")
+    void expireUserPoints() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        when(pointExpirationWheel.advanceClock(now)).thenReturn(Set.of(userId));
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 10000L, now));
+        when(pointLotTable.expiredAmount(userId, now)).thenReturn(3000L);
+        when(userPointRepository.insertOrUpdate(userId, 7000L)).thenReturn(new UserPoint(userId, 7000L, now));
+
+        // when
+        List<UserPoint> expiredUserPoints = pointService.expireUserPoints(now);
+
+        // then
+        assertThat(expiredUserPoints).extracting(UserPoint::point).containsExactly(7000L);
+        verify(pointHistoryRepository).insert(userId, 7000L, TransactionType.EXPIRE, now);
+        verify(pointLotTable).expire(userId, now);
+    }
+
+    @Test
+    @DisplayName("만료 대상 포인트를 이미 모두 사용했다면 아무것도 차감하지 않는다.")
+    void shouldSkipExpireWhenPointLotAlreadyUsed() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        when(pointExpirationWheel.advanceClock(now)).thenReturn(Set.of(userId));
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 10000L, now));
+        when(pointLotTable.expiredAmount(userId, now)).thenReturn(0L);
+
+        // when, then
+        assertThat(pointService.expireUserPoints(now)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("포인트 충전 후 조회하면 테이블을 다시 조회하지 않고 충전된 포인트를 반환한다.")
+    void shouldReadCommittedSnapshotAfterChargeUserPoints() {
+        // given
+        long userId = 1L;
+        long amount = 10000L;
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 0, System.currentTimeMillis()));
+        when(userPointRepository.insertOrUpdate(userId, amount)).thenReturn(new UserPoint(userId, amount, System.currentTimeMillis()));
+        pointService.chargeUserPoints(userId, amount);
+
+        // when
+        UserPoint userPoint = pointService.getUserPoints(userId);
+
+        // then
+        assertThat(userPoint.point()).isEqualTo(amount);
+        verify(userPointRepository, times(1)).selectById(userId);
+    }
+
+    @Test
+    @DisplayName("서버 종료가 시작되면 포인트 충전/사용 요청을 받지 않는다.")
+    void shouldRejectMutationWhenShuttingDown() {
+        // given
+        pointMutationGate.stop();
+
+        // when, then
+        assertThatThrownBy(() -> pointService.chargeUserPoints(1L, 1000L)).isInstanceOf(PointServiceUnavailableException.class);
+        assertThatThrownBy(() -> pointService.spendUserPoints(1L, 1000L)).isInstanceOf(PointServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("쓰기 작업 중에 조회하면 쓰는 중인 값이 아닌 마지막으로 커밋된 포인트를 반환한다.")
+    void shouldReadCommittedPointWhileWriting() throws Exception {
+        // given
+        long userId = 1L;
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 10000L, System.currentTimeMillis()));
+        when(userPointRepository.insertOrUpdate(userId, 7000L)).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return new UserPoint(userId, 7000L, System.currentTimeMillis());
+        });
+        CompletableFuture<UserPoint> spend = CompletableFuture.supplyAsync(() -> pointService.spendUserPoints(userId, 3000L));
+        writing.await();
+
+        // when
+        UserPoint duringWrite = pointService.getUserPoints(userId);
+        release.countDown();
+        spend.get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(duringWrite.point()).isEqualTo(10000L);
+        assertThat(pointService.getUserPoints(userId).point()).isEqualTo(7000L);
+        verify(userPointRepository, times(1)).selectById(userId);
+    }
+
+    @Test
+    @DisplayName("쓰기 작업 중에 내역을 조회하면 커밋된 포인트와 맞는 내역까지만 반환한다.")
+    void shouldReadHistoryMatchingCommittedPointWhileWriting() throws Exception {
+        // given
+        long userId = 1L;
+        List<PointHistory> rows = new CopyOnWriteArrayList<>();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 10000L, System.currentTimeMillis()));
+        when(userPointRepository.insertOrUpdate(userId, 7000L)).thenReturn(new UserPoint(userId, 7000L, System.currentTimeMillis()));
+        when(pointHistoryRepository.selectAllByUserId(userId)).thenAnswer(invocation -> List.copyOf(rows));
+        when(pointHistoryRepository.insert(eq(userId), eq(7000L), eq(TransactionType.USE), anyLong())).thenAnswer(invocation -> {
+            // 내역은 기록됐지만 아직 스냅샷이 게시되지 않은 상태
+            PointHistory history = new PointHistory(1L, userId, 7000L, TransactionType.USE, invocation.getArgument(3));
+            rows.add(history);
+            writing.countDown();
+            release.await();
+            return history;
+        });
+        CompletableFuture<UserPoint> spend = CompletableFuture.supplyAsync(() -> pointService.spendUserPoints(userId, 3000L));
+        writing.await();
+
+        // when
+        UserPoint pointDuringWrite = pointService.getUserPoints(userId);
+        List<PointHistory> historiesDuringWrite = pointService.getUserPointHistory(userId);
+        release.countDown();
+        spend.get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(pointDuringWrite.point()).isEqualTo(10000L);
+        assertThat(historiesDuringWrite).isEmpty();
+        assertThat(pointService.getUserPoints(userId).point()).isEqualTo(7000L);
+        assertThat(pointService.getUserPointHistory(userId)).extracting(PointHistory::amount).containsExactly(7000L);
+    }
+
+    @Test
+    @DisplayName("포인트 만료에 실패하면 다음 tick 에 다시 만료를 시도한다.")
+    void shouldRescheduleWhenExpireUserPointsFailed() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        when(pointExpirationWheel.advanceClock(now)).thenReturn(Set.of(userId));
+        when(pointExpirationWheel.getTickMillis()).thenReturn(1_000L);
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 10000L, now));
+        when(pointLotTable.expiredAmount(userId, now)).thenReturn(3000L);
+        when(userPointRepository.insertOrUpdate(userId, 7000L)).thenThrow(new IllegalStateException());
+
+        // when
+        List<UserPoint> expiredUserPoints = pointService.expireUserPoints(now);
+
+        // then
+        assertThat(expiredUserPoints).isEmpty();
+        verify(pointExpirationWheel).schedule(userId, now + 1_000L);
+        verify(pointLotTable, never()).expire(userId, now);
+    }
+
+    @Test
+    @DisplayName("다른 작업이 유저의 Lock 을 잡고 있으면 기다리지 않고 포인트 만료를 다음 tick 으로 미룬다.")
+    void shouldRescheduleExpireWhenUserLocked() throws Exception {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(pointExpirationWheel.advanceClock(now)).thenReturn(Set.of(userId));
+        when(pointExpirationWheel.getTickMillis()).thenReturn(1_000L);
+        when(userPointRepository.selectById(userId)).thenReturn(new UserPoint(userId, 10000L, now));
+        when(userPointRepository.insertOrUpdate(userId, 7000L)).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return new UserPoint(userId, 7000L, now);
+        });
+        CompletableFuture<UserPoint> spend = CompletableFuture.supplyAsync(() -> pointService.spendUserPoints(userId, 3000L));
+        writing.await();
+
+        // when : 쓰기 작업이 끝나기 전에 반환되어야 함
+        List<UserPoint> expiredUserPoints;
+        try {
+            expiredUserPoints = CompletableFuture.supplyAsync(() -> pointService.expireUserPoints(now))
+                    .get(1, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+        }
+        spend.get(1, TimeUnit.SECONDS);
+
+        // then
+        assertThat(expiredUserPoints).isEmpty();
+        verify(pointExpirationWheel).schedule(userId, now + 1_000L);
+        verify(pointLotTable, never()).expiredAmount(userId, now);
+    }
+
+    @Test
+    @DisplayName("서버 종료 중에는 포인트 만료를 다음 tick 으로 미룬다.")
+    void shouldRescheduleExpireWhenShuttingDown() {
+        // given
+        long userId = 1L;
+        long now = System.currentTimeMillis();
+        pointMutationGate.stop();
+        when(pointExpirationWheel.advanceClock(now)).thenReturn(Set.of(userId));
+        when(pointExpirationWheel.getTickMillis()).thenReturn(1_000L);
+
+        // when
+        List<UserPoint> expiredUserPoints = pointService.expireUserPoints(now);
 
+        // then
+        assertThat(expiredUserPoints).isEmpty();
+        verify(pointExpirationWheel).schedule(userId, now + 1_000L);
+    }
+
+}